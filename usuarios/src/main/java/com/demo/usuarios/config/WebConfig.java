@@ -0,0 +1,19 @@
+package com.demo.usuarios.config;
+
+import com.demo.usuarios.limiter.ConcurrencyLimiterInterceptor;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+@Configuration
+public class WebConfig implements WebMvcConfigurer {
+
+    @Autowired
+    ConcurrencyLimiterInterceptor concurrencyLimiterInterceptor;
+
+    @Override
+    public void addInterceptors(InterceptorRegistry registry) {
+        registry.addInterceptor(concurrencyLimiterInterceptor);
+    }
+}
@@ -0,0 +1,21 @@
+package com.demo.usuarios.exception;
+
+import lombok.Getter;
+
+/**
+ * Se lanza cuando una operacion alcanzo su limite de concurrencia y la peticion se rechaza.
+ *
+ * @author Daniel Ivan Martinez R.
+ */
+@Getter
+public class ConcurrencyLimitException extends RuntimeException {
+
+    private final String operacion;
+    private final long retryAfterSegundos;
+
+    public ConcurrencyLimitException(String operacion, long retryAfterSegundos) {
+        super("Limite de concurrencia alcanzado en " + operacion);
+        this.operacion = operacion;
+        this.retryAfterSegundos = retryAfterSegundos;
+    }
+}
@@ -4,6 +4,7 @@ import com.demo.usuarios.response.ResponseGenerico;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.context.support.DefaultMessageSourceResolvable;
 import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.HttpRequestMethodNotSupportedException;
@@ -54,6 +55,14 @@ public class ExceptionHandler {
         return new ResponseEntity<>(response, HttpStatus.NOT_FOUND);
     }
 
+    @org.springframework.web.bind.annotation.ExceptionHandler(ConcurrencyLimitException.class)
+    public ResponseEntity<?> limiteConcurrencia(ConcurrencyLimitException e) {
+        ResponseGenerico<?> response = new ResponseGenerico<>("Servicio saturado, intente mas tarde",Boolean.FALSE,null);
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                .header(HttpHeaders.RETRY_AFTER, String.valueOf(e.getRetryAfterSegundos()))
+                .body(response);
+    }
+
     @org.springframework.web.bind.annotation.ExceptionHandler(Exception.class)
     public ResponseEntity<?> all(Exception e, WebRequest request) {
         log.error("Error en la aplicacion: {}", e.getMessage(), e);
@@ -0,0 +1,97 @@
+package com.demo.usuarios.limiter;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Limitador de concurrencia adaptativo tipo AIMD (additive increase, multiplicative decrease).
+ * El limite crece de uno en uno mientras la latencia se mantiene por debajo del umbral y
+ * se reduce multiplicativamente cuando una peticion lo supera o falla por sobrecarga del backend.
+ * Solo se reduce una vez por evento de sobrecarga: las peticiones que iniciaron antes
+ * de la ultima reduccion no vuelven a reducir el limite.
+ *
+ * @author Daniel Ivan Martinez R.
+ */
+public class ConcurrencyLimiter {
+
+    private final int limiteMinimo;
+    private final int limiteMaximo;
+    private final long latenciaMaximaNanos;
+    private final double factorReduccion;
+
+    private final AtomicInteger enVuelo = new AtomicInteger();
+    private volatile int limite;
+    private long ultimaReduccionNanos = System.nanoTime();
+
+    public ConcurrencyLimiter(int limiteInicial, int limiteMinimo, int limiteMaximo,
+                              long latenciaMaximaMs, double factorReduccion) {
+        if (limiteMinimo < 1 || limiteMinimo > limiteMaximo) {
+            throw new IllegalArgumentException("Limites invalidos: minimo " + limiteMinimo + ", maximo " + limiteMaximo);
+        }
+        if (latenciaMaximaMs <= 0) {
+            throw new IllegalArgumentException("La latencia maxima debe ser mayor a 0: " + latenciaMaximaMs);
+        }
+        if (factorReduccion <= 0 || factorReduccion >= 1) {
+            throw new IllegalArgumentException("El factor de reduccion debe estar entre 0 y 1: " + factorReduccion);
+        }
+        this.limiteMinimo = limiteMinimo;
+        this.limiteMaximo = limiteMaximo;
+        this.latenciaMaximaNanos = TimeUnit.MILLISECONDS.toNanos(latenciaMaximaMs);
+        this.factorReduccion = factorReduccion;
+        this.limite = Math.max(limiteMinimo, Math.min(limiteMaximo, limiteInicial));
+    }
+
+    /**
+     * Intenta reservar un lugar para una peticion.
+     * @return true si la peticion puede continuar, false si se alcanzo el limite actual.
+     */
+    public boolean tryAcquire() {
+        while (true) {
+            int actual = enVuelo.get();
+            if (actual >= limite) {
+                return false;
+            }
+            if (enVuelo.compareAndSet(actual, actual + 1)) {
+                return true;
+            }
+        }
+    }
+
+    /**
+     * Libera el lugar reservado por {@link #tryAcquire()} y ajusta el limite segun la latencia medida.
+     * @param inicioNanos valor de {@link System#nanoTime()} al iniciar la peticion.
+     * @param finNanos valor de {@link System#nanoTime()} al terminar la peticion.
+     * @param sobrecarga true si la peticion fallo por sobrecarga del backend (timeout, conexion).
+     */
+    public void release(long inicioNanos, long finNanos, boolean sobrecarga) {
+        int enVueloAntes = enVuelo.getAndDecrement();
+        synchronized (this) {
+            if (sobrecarga || finNanos - inicioNanos > latenciaMaximaNanos) {
+                // Las peticiones que ya estaban en vuelo durante la ultima reduccion no cuentan otra vez.
+                if (inicioNanos - ultimaReduccionNanos >= 0) {
+                    limite = Math.max(limiteMinimo, (int) (limite * factorReduccion));
+                    ultimaReduccionNanos = finNanos;
+                }
+            } else if (enVueloAntes * 2 >= limite) {
+                // Solo se crece si el limite actual realmente se esta usando.
+                limite = Math.min(limiteMaximo, limite + 1);
+            }
+        }
+    }
+
+    /**
+     * Libera el lugar reservado por {@link #tryAcquire()} sin ajustar el limite. Se usa para
+     * peticiones que fallaron por causas ajenas a la carga, como datos invalidos del cliente.
+     */
+    public void ignore() {
+        enVuelo.decrementAndGet();
+    }
+
+    public int getLimite() {
+        return limite;
+    }
+
+    public int getEnVuelo() {
+        return enVuelo.get();
+    }
+}
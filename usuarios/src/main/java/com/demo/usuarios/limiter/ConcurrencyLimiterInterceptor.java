@@ -0,0 +1,154 @@
+package com.demo.usuarios.limiter;
+
+import com.demo.usuarios.controller.UsuariosController;
+import com.demo.usuarios.exception.ConcurrencyLimitException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.annotation.AnnotatedElementUtils;
+import org.springframework.core.env.Environment;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.dao.QueryTimeoutException;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.CannotCreateTransactionException;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.client.ResourceAccessException;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.DispatcherServlet;
+import org.springframework.web.servlet.HandlerInterceptor;
+
+import java.lang.reflect.Method;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Interceptor que aplica un {@link ConcurrencyLimiter} independiente a cada operacion de
+ * {@link UsuariosController}. Las peticiones que exceden el limite se rechazan con
+ * {@link ConcurrencyLimitException} antes de llegar al controlador.
+ * <p>
+ * Solo la latencia y los fallos de recursos (timeouts o conexion con la BD o con el microservicio
+ * Pedidos) reducen el limite. Cualquier otro error, como un id o un JSON invalido, libera el lugar
+ * sin ajustar el limite para que un cliente no pueda degradar la operacion.
+ * <p>
+ * Los limitadores y sus metricas se crean al iniciar la aplicacion, asi una configuracion
+ * invalida falla al arrancar.
+ * <p>
+ * Los valores por defecto estan definidos en {@link #crearLimiter(String)} y se pueden
+ * sobreescribir de forma general ({@code limiter.latencia-maxima-ms}) o por operacion
+ * ({@code limiter.getById.latencia-maxima-ms}).
+ *
+ * @author Daniel Ivan Martinez R.
+ */
+@Slf4j
+@Component
+public class ConcurrencyLimiterInterceptor implements HandlerInterceptor {
+
+    private static final String ATRIBUTO_INICIO = ConcurrencyLimiterInterceptor.class.getName() + ".inicio";
+    private static final String ATRIBUTO_LIMITER = ConcurrencyLimiterInterceptor.class.getName() + ".limiter";
+
+    @Value("${limiter.retry-after-segundos:1}")
+    long retryAfterSegundos;
+
+    @Autowired
+    Environment environment;
+
+    @Autowired
+    MeterRegistry meterRegistry;
+
+    private final Map<String, ConcurrencyLimiter> limiters = new ConcurrentHashMap<>();
+    private final Map<String, Counter> rechazos = new ConcurrentHashMap<>();
+
+    /**
+     * Crea un limitador con sus metricas para cada metodo de {@link UsuariosController} que atiende peticiones.
+     */
+    @PostConstruct
+    void init() {
+        for (Method method : UsuariosController.class.getDeclaredMethods()) {
+            if (AnnotatedElementUtils.hasAnnotation(method, RequestMapping.class)) {
+                limiters.put(method.getName(), crearLimiter(method.getName()));
+            }
+        }
+    }
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        if (!(handler instanceof HandlerMethod handlerMethod)
+                || !UsuariosController.class.isAssignableFrom(handlerMethod.getBeanType())) {
+            return true;
+        }
+        String operacion = handlerMethod.getMethod().getName();
+        ConcurrencyLimiter limiter = limiters.get(operacion);
+        if (limiter == null) {
+            return true;
+        }
+        if (!limiter.tryAcquire()) {
+            rechazos.get(operacion).increment();
+            log.debug("Peticion rechazada en {}: limite de concurrencia {} alcanzado", operacion, limiter.getLimite());
+            throw new ConcurrencyLimitException(operacion, retryAfterSegundos);
+        }
+        request.setAttribute(ATRIBUTO_LIMITER, limiter);
+        request.setAttribute(ATRIBUTO_INICIO, System.nanoTime());
+        return true;
+    }
+
+    @Override
+    public void afterCompletion(HttpServletRequest request, HttpServletResponse response, Object handler, Exception ex) {
+        if (request.getAttribute(ATRIBUTO_LIMITER) instanceof ConcurrencyLimiter limiter) {
+            long inicio = (Long) request.getAttribute(ATRIBUTO_INICIO);
+            // Las excepciones resueltas por ExceptionHandler llegan con ex == null, el DispatcherServlet las deja en este atributo.
+            Throwable causa = ex != null ? ex : (Throwable) request.getAttribute(DispatcherServlet.EXCEPTION_ATTRIBUTE);
+            if (causa == null) {
+                limiter.release(inicio, System.nanoTime(), false);
+            } else if (esSobrecarga(causa)) {
+                limiter.release(inicio, System.nanoTime(), true);
+            } else {
+                limiter.ignore();
+            }
+        }
+    }
+
+    ConcurrencyLimiter getLimiter(String operacion) {
+        return limiters.get(operacion);
+    }
+
+    private boolean esSobrecarga(Throwable causa) {
+        return causa instanceof ResourceAccessException
+                || causa instanceof DataAccessResourceFailureException
+                || causa instanceof QueryTimeoutException
+                || causa instanceof CannotCreateTransactionException;
+    }
+
+    private ConcurrencyLimiter crearLimiter(String operacion) {
+        ConcurrencyLimiter limiter = new ConcurrencyLimiter(
+                propiedad(operacion, "limite-inicial", Integer.class, 20),
+                propiedad(operacion, "limite-minimo", Integer.class, 1),
+                propiedad(operacion, "limite-maximo", Integer.class, 200),
+                propiedad(operacion, "latencia-maxima-ms", Long.class, 500L),
+                propiedad(operacion, "factor-reduccion", Double.class, 0.9));
+
+        Gauge.builder("usuarios.limiter.limite", limiter, ConcurrencyLimiter::getLimite)
+                .description("Limite de concurrencia actual por operacion")
+                .tag("operacion", operacion)
+                .register(meterRegistry);
+        Gauge.builder("usuarios.limiter.en.vuelo", limiter, ConcurrencyLimiter::getEnVuelo)
+                .description("Peticiones en proceso por operacion")
+                .tag("operacion", operacion)
+                .register(meterRegistry);
+        rechazos.put(operacion, Counter.builder("usuarios.limiter.rechazos")
+                .description("Peticiones rechazadas por exceder el limite de concurrencia")
+                .tag("operacion", operacion)
+                .register(meterRegistry));
+        return limiter;
+    }
+
+    private <T> T propiedad(String operacion, String nombre, Class<T> tipo, T porDefecto) {
+        T general = environment.getProperty("limiter." + nombre, tipo, porDefecto);
+        return environment.getProperty("limiter." + operacion + "." + nombre, tipo, general);
+    }
+}
@@ -0,0 +1,151 @@
+package com.demo.usuarios.limiter;
+
+import com.demo.usuarios.controller.UsuariosController;
+import com.demo.usuarios.dto.UsuariosDTO;
+import com.demo.usuarios.exception.ExceptionHandler;
+import com.demo.usuarios.service.IUsuariosService;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.mock.env.MockEnvironment;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import org.springframework.web.client.ResourceAccessException;
+import org.springframework.web.method.HandlerMethod;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@ExtendWith(MockitoExtension.class)
+class ConcurrencyLimiterInterceptorTests {
+
+	@Mock
+	IUsuariosService usuariosService;
+
+	@InjectMocks
+	UsuariosController controller;
+
+	private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+	private ConcurrencyLimiterInterceptor interceptor;
+	private MockMvc mockMvc;
+
+	@BeforeEach
+	void setUp() {
+		interceptor = new ConcurrencyLimiterInterceptor();
+		interceptor.retryAfterSegundos = 2;
+		interceptor.meterRegistry = meterRegistry;
+		interceptor.environment = new MockEnvironment()
+				.withProperty("limiter.getById.limite-inicial", "1")
+				.withProperty("limiter.getById.limite-maximo", "1");
+		interceptor.init();
+		mockMvc = MockMvcBuilders.standaloneSetup(controller)
+				.setControllerAdvice(new ExceptionHandler())
+				.addInterceptors(interceptor)
+				.build();
+	}
+
+	@Test
+	void registraMetricasDeTodasLasOperacionesAlIniciar() {
+		for (String operacion : List.of("saveUsuario", "getById", "getAll", "updateUsuario", "deleteUsuario", "allPedidos")) {
+			assertNotNull(meterRegistry.find("usuarios.limiter.limite").tag("operacion", operacion).gauge());
+			assertNotNull(meterRegistry.find("usuarios.limiter.rechazos").tag("operacion", operacion).counter());
+		}
+	}
+
+	@Test
+	void responde503ConRetryAfterAlExcederElLimite() throws Exception {
+		HandlerMethod getById = new HandlerMethod(controller, UsuariosController.class.getMethod("getById", Integer.class));
+		// Ocupa el unico lugar disponible sin liberarlo.
+		interceptor.preHandle(new MockHttpServletRequest(), new MockHttpServletResponse(), getById);
+
+		mockMvc.perform(get("/usuarios/1"))
+				.andExpect(status().isServiceUnavailable())
+				.andExpect(header().string(HttpHeaders.RETRY_AFTER, "2"))
+				.andExpect(jsonPath("$.success").value(false));
+
+		assertEquals(1.0, meterRegistry.get("usuarios.limiter.rechazos").tag("operacion", "getById").counter().count());
+	}
+
+	@Test
+	void liberaElLugarAlTerminarCorrectamente() throws Exception {
+		when(usuariosService.getAll()).thenReturn(List.of(new UsuariosDTO()));
+
+		mockMvc.perform(get("/usuarios/all")).andExpect(status().isOk());
+
+		assertEquals(0, interceptor.getLimiter("getAll").getEnVuelo());
+		assertEquals(20, interceptor.getLimiter("getAll").getLimite());
+	}
+
+	@Test
+	void liberaElLugarConExcepcionManejada() throws Exception {
+		when(usuariosService.deleteById(5)).thenThrow(new DataIntegrityViolationException("duplicado"));
+
+		mockMvc.perform(delete("/usuarios/5")).andExpect(status().isBadRequest());
+
+		assertEquals(0, interceptor.getLimiter("deleteUsuario").getEnVuelo());
+		assertEquals(20, interceptor.getLimiter("deleteUsuario").getLimite());
+	}
+
+	@Test
+	void fallaDelBackendResueltaPorExceptionHandlerReduceElLimite() throws Exception {
+		when(usuariosService.getAll()).thenThrow(new ResourceAccessException("timeout"));
+
+		mockMvc.perform(get("/usuarios/all")).andExpect(status().isInternalServerError());
+
+		assertEquals(0, interceptor.getLimiter("getAll").getEnVuelo());
+		assertEquals(18, interceptor.getLimiter("getAll").getLimite());
+	}
+
+	@Test
+	void errorNoRelacionadoConLaCargaNoAjustaElLimite() throws Exception {
+		when(usuariosService.getAll()).thenThrow(new IllegalStateException("error"));
+
+		mockMvc.perform(get("/usuarios/all")).andExpect(status().isInternalServerError());
+
+		assertEquals(0, interceptor.getLimiter("getAll").getEnVuelo());
+		assertEquals(20, interceptor.getLimiter("getAll").getLimite());
+	}
+
+	@Test
+	void idInvalidoNoReduceElLimite() throws Exception {
+		for (int i = 0; i < 5; i++) {
+			mockMvc.perform(get("/usuarios/listaPedidos/abc")).andExpect(status().isInternalServerError());
+		}
+
+		assertEquals(0, interceptor.getLimiter("allPedidos").getEnVuelo());
+		assertEquals(20, interceptor.getLimiter("allPedidos").getLimite());
+		verifyNoInteractions(usuariosService);
+	}
+
+	@Test
+	void jsonInvalidoNoReduceElLimite() throws Exception {
+		for (int i = 0; i < 5; i++) {
+			mockMvc.perform(post("/usuarios").contentType(MediaType.APPLICATION_JSON).content("{"))
+					.andExpect(status().isInternalServerError());
+		}
+
+		assertEquals(0, interceptor.getLimiter("saveUsuario").getEnVuelo());
+		assertEquals(20, interceptor.getLimiter("saveUsuario").getLimite());
+		verifyNoInteractions(usuariosService);
+	}
+
+}
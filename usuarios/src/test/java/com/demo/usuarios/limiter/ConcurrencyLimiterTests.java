@@ -0,0 +1,119 @@
+package com.demo.usuarios.limiter;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ConcurrencyLimiterTests {
+
+	private static final long RAPIDA = TimeUnit.MILLISECONDS.toNanos(10);
+	private static final long LENTA = TimeUnit.MILLISECONDS.toNanos(1000);
+
+	@Test
+	void rechazaAlAlcanzarElLimite() {
+		ConcurrencyLimiter limiter = new ConcurrencyLimiter(2, 1, 10, 500, 0.5);
+
+		assertTrue(limiter.tryAcquire());
+		assertTrue(limiter.tryAcquire());
+		assertFalse(limiter.tryAcquire());
+		assertEquals(2, limiter.getEnVuelo());
+	}
+
+	@Test
+	void creceSoloConUtilizacionDeAlMenosCincuentaPorciento() {
+		ConcurrencyLimiter limiter = new ConcurrencyLimiter(10, 1, 100, 500, 0.5);
+
+		limiter.tryAcquire();
+		long inicio = System.nanoTime();
+		limiter.release(inicio, inicio + RAPIDA, false);
+		assertEquals(10, limiter.getLimite());
+
+		for (int i = 0; i < 5; i++) {
+			limiter.tryAcquire();
+		}
+		inicio = System.nanoTime();
+		limiter.release(inicio, inicio + RAPIDA, false);
+		assertEquals(11, limiter.getLimite());
+	}
+
+	@Test
+	void seReduceConMuestraLentaHastaElMinimo() {
+		ConcurrencyLimiter limiter = new ConcurrencyLimiter(10, 4, 100, 500, 0.5);
+
+		limiter.tryAcquire();
+		long inicio = System.nanoTime();
+		limiter.release(inicio, inicio + LENTA, false);
+		assertEquals(5, limiter.getLimite());
+
+		limiter.tryAcquire();
+		inicio += LENTA + 1;
+		limiter.release(inicio, inicio + LENTA, false);
+		assertEquals(4, limiter.getLimite());
+	}
+
+	@Test
+	void seReduceUnaSolaVezPorEventoDeSobrecarga() {
+		ConcurrencyLimiter limiter = new ConcurrencyLimiter(20, 1, 100, 500, 0.5);
+		long inicio = System.nanoTime();
+		for (int i = 0; i < 20; i++) {
+			limiter.tryAcquire();
+		}
+
+		for (int i = 0; i < 20; i++) {
+			limiter.release(inicio, inicio + LENTA, false);
+		}
+		assertEquals(10, limiter.getLimite());
+	}
+
+	@Test
+	void unaSobrecargaReduceElLimiteAunqueSeaRapida() {
+		ConcurrencyLimiter limiter = new ConcurrencyLimiter(10, 1, 100, 500, 0.5);
+		for (int i = 0; i < 5; i++) {
+			limiter.tryAcquire();
+		}
+
+		long inicio = System.nanoTime();
+		limiter.release(inicio, inicio + RAPIDA, true);
+		assertEquals(5, limiter.getLimite());
+	}
+
+	@Test
+	void ignorarLiberaElLugarSinAjustarElLimite() {
+		ConcurrencyLimiter limiter = new ConcurrencyLimiter(10, 1, 100, 500, 0.5);
+		for (int i = 0; i < 5; i++) {
+			limiter.tryAcquire();
+		}
+
+		limiter.ignore();
+		assertEquals(4, limiter.getEnVuelo());
+		assertEquals(10, limiter.getLimite());
+	}
+
+	@Test
+	void nuncaSuperaElMaximo() {
+		ConcurrencyLimiter limiter = new ConcurrencyLimiter(50, 1, 3, 500, 0.5);
+		assertEquals(3, limiter.getLimite());
+		limiter.tryAcquire();
+		limiter.tryAcquire();
+
+		// Con 3 en vuelo la utilizacion es total y el limite intentaria crecer.
+		for (int i = 0; i < 10; i++) {
+			limiter.tryAcquire();
+			long inicio = System.nanoTime();
+			limiter.release(inicio, inicio + RAPIDA, false);
+		}
+		assertEquals(3, limiter.getLimite());
+	}
+
+	@Test
+	void rechazaParametrosInvalidos() {
+		assertThrows(IllegalArgumentException.class, () -> new ConcurrencyLimiter(10, 0, 100, 500, 0.5));
+		assertThrows(IllegalArgumentException.class, () -> new ConcurrencyLimiter(10, 20, 10, 500, 0.5));
+		assertThrows(IllegalArgumentException.class, () -> new ConcurrencyLimiter(10, 1, 100, 0, 0.5));
+		assertThrows(IllegalArgumentException.class, () -> new ConcurrencyLimiter(10, 1, 100, 500, 1.0));
+		assertThrows(IllegalArgumentException.class, () -> new ConcurrencyLimiter(10, 1, 100, 500, 0));
+	}
+
+}